@@ -0,0 +1,93 @@
+package com.product.product_service.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-caller token buckets. At most {@code maxClients} buckets are tracked; callers arriving
+ * while the map is full share one overflow bucket until {@link #evictFullBuckets()} frees room.
+ * Only buckets that have refilled completely are evicted, so eviction never grants extra tokens.
+ */
+public class ClientRateLimiter {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+
+    public ClientRateLimiter(int capacity, int refillPerSecond, int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    ClientRateLimiter(int capacity, int refillPerSecond, int maxClients, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate limit capacity, refill and max clients must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+        this.overflow = new TokenBucket(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public long tryConsume(String clientKey) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = buckets.size() < maxClients
+                    ? buckets.computeIfAbsent(clientKey, key -> new TokenBucket(now))
+                    : overflow;
+        }
+        return bucket.tryConsume(now);
+    }
+
+    public void evictFullBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int getTrackedClients() {
+        return buckets.size();
+    }
+
+    private final class TokenBucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        private synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano));
+            }
+            tokens--;
+            return 0;
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            // Callers read the clock before taking the lock, so now can trail lastRefillNanos
+            if (now > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
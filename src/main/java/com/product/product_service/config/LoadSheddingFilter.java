@@ -0,0 +1,180 @@
+package com.product.product_service.config;
+
+import com.product.product_service.utils.Constants;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadSheddingFilter.class);
+
+    private static final String BASE_PATH = "/api/products/";
+
+    // Decoded, with ;matrix parameters removed, so routes are classified the way MVC matches them
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    enum Route {
+        PUBLIC("public"), ADMIN("admin"), PRIVATE("private");
+
+        private final String prefix;
+
+        Route(String prefix) {
+            this.prefix = prefix;
+        }
+
+        static Route of(HttpServletRequest request) {
+            return of(PATH_HELPER.getPathWithinApplication(request));
+        }
+
+        static Route of(String path) {
+            if (!path.startsWith(BASE_PATH)) {
+                return null;
+            }
+            for (Route route : values()) {
+                int end = BASE_PATH.length() + route.prefix.length();
+                if (path.startsWith(route.prefix, BASE_PATH.length())
+                        && (path.length() == end || path.charAt(end) == '/')) {
+                    return route;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final JwtUtils jwtUtils;
+    private final Map<Route, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Route.class);
+    private final Map<Route, ClientRateLimiter> rateLimiters = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> concurrencyShed = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> rateLimited = new EnumMap<>(Route.class);
+
+    public LoadSheddingFilter(JwtUtils jwtUtils, MeterRegistry meterRegistry,
+                              @Value("${shedding.min-concurrency:2}") int minConcurrency,
+                              @Value("${shedding.public.max-concurrency:200}") int publicMax,
+                              @Value("${shedding.public.latency-target-ms:250}") long publicLatencyTargetMs,
+                              @Value("${shedding.admin.max-concurrency:20}") int adminMax,
+                              @Value("${shedding.admin.latency-target-ms:500}") long adminLatencyTargetMs,
+                              @Value("${shedding.private.max-concurrency:50}") int privateMax,
+                              @Value("${shedding.private.latency-target-ms:2000}") long privateLatencyTargetMs,
+                              @Value("${shedding.client.burst:50}") int clientBurst,
+                              @Value("${shedding.client.refill-per-second:20}") int clientRefillPerSecond,
+                              @Value("${shedding.client.max-tracked:10000}") int maxTrackedClients) {
+        this.jwtUtils = jwtUtils;
+
+        limiters.put(Route.PUBLIC, new AdaptiveConcurrencyLimiter(publicMax / 2, minConcurrency, publicMax, publicLatencyTargetMs));
+        limiters.put(Route.ADMIN, new AdaptiveConcurrencyLimiter(adminMax / 2, minConcurrency, adminMax, adminLatencyTargetMs));
+        limiters.put(Route.PRIVATE, new AdaptiveConcurrencyLimiter(privateMax / 2, minConcurrency, privateMax, privateLatencyTargetMs));
+
+        limiters.forEach((route, limiter) -> {
+            String tag = route.prefix;
+            ClientRateLimiter rateLimiter = new ClientRateLimiter(clientBurst, clientRefillPerSecond, maxTrackedClients);
+            rateLimiters.put(route, rateLimiter);
+
+            Gauge.builder("product.shedding.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("route", tag).register(meterRegistry);
+            Gauge.builder("product.shedding.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("route", tag).register(meterRegistry);
+            Gauge.builder("product.shedding.tracked-clients", rateLimiter, ClientRateLimiter::getTrackedClients)
+                    .tag("route", tag).register(meterRegistry);
+            concurrencyShed.put(route, Counter.builder("product.shedding.rejected")
+                    .tag("route", tag).tag("reason", "concurrency").register(meterRegistry));
+            rateLimited.put(route, Counter.builder("product.shedding.rejected")
+                    .tag("route", tag).tag("reason", "rate-limit").register(meterRegistry));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return Route.of(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = Route.of(request);
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(route);
+        if (!limiter.tryAcquire()) {
+            logger.debug("Shedding request on {} route, concurrency limit {} reached", route.prefix, limiter.getLimit());
+            concurrencyShed.get(route).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, Constants.OVERLOADED);
+            return;
+        }
+
+        // Only callers with a verified token get their own budget; anonymous traffic arrives
+        // through the gateway from a single address and is left to the concurrency limit
+        String subject = resolveSubject(request);
+        if (subject != null) {
+            long waitNanos = rateLimiters.get(route).tryConsume(subject);
+            if (waitNanos > 0) {
+                limiter.cancel();
+                logger.debug("Rate limit exceeded on {} route", route.prefix);
+                rateLimited.get(route).increment();
+                long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, Constants.RATE_LIMITED);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(start, System.nanoTime(), failed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shedding.client.eviction-interval-ms:60000}")
+    public void evictIdleClients() {
+        rateLimiters.values().forEach(ClientRateLimiter::evictFullBuckets);
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtUtils.getEmailFromToken(authorization);
+        } catch (ExpiredJwtException e) {
+            // The signature was verified before the expiry check, so the subject is trustworthy
+            return e.getClaims().getSubject();
+        } catch (RuntimeException e) {
+            logger.debug("Could not verify JWT, request is not rate limited per caller");
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
@@ -16,8 +16,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @RestController
@@ -110,12 +110,12 @@ public class ProductController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful retrieval of available products and their quantities",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = HashMap.class),
+                            schema = @Schema(implementation = Map.class),
                             examples = @ExampleObject(value = "{\"1\": 5, \"2\": 3}")))
     })
     @PutMapping("/private")
-    public ResponseEntity<HashMap<Long, Integer>> existsProducts(@RequestBody List<ProductQuantityRecord> recordList){
-        HashMap<Long, Integer> products = productService.getAllAvailableProducts(recordList);
+    public ResponseEntity<ProductStockMap> existsProducts(@RequestBody List<ProductQuantityRecord> recordList){
+        ProductStockMap products = productService.getAllAvailableProducts(recordList);
         return ResponseEntity.ok(products);
     }
 
@@ -0,0 +1,128 @@
+package com.product.product_service.dtos;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Open-addressing map from product id to stock, kept in primitive arrays so the
+ * availability check does not box keys/values or allocate an entry per product.
+ * Serialized as a plain JSON object ({"1": 5, "2": 3}) by {@link ProductStockMapSerializer}.
+ */
+@JsonSerialize(using = ProductStockMapSerializer.class)
+public class ProductStockMap {
+
+    private static final long FREE_KEY = 0L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int[] values;
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+    private int mask;
+    private int size;
+
+    @FunctionalInterface
+    public interface EntryVisitor<E extends Exception> {
+        void visit(long id, int stock) throws E;
+    }
+
+    public ProductStockMap(int expectedSize) {
+        int capacity = 4;
+        while (threshold(capacity) < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    public void put(long id, int stock) {
+        if (id == FREE_KEY) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = stock;
+            return;
+        }
+
+        int slot = indexOf(id);
+        if (keys[slot] == id) {
+            values[slot] = stock;
+            return;
+        }
+
+        keys[slot] = id;
+        values[slot] = stock;
+        if (++size > threshold(mask + 1)) {
+            rehash((mask + 1) << 1);
+        }
+    }
+
+    public boolean containsKey(long id) {
+        if (id == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return keys[indexOf(id)] == id;
+    }
+
+    public <E extends Exception> void forEach(EntryVisitor<E> visitor) throws E {
+        if (hasFreeKey) {
+            visitor.visit(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int threshold(int capacity) {
+        return capacity - (capacity >> 2);
+    }
+
+    private int indexOf(long id) {
+        long h = id * GOLDEN_RATIO;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (keys[slot] != FREE_KEY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = indexOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((id, stock) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(id).append('=').append(stock);
+        });
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.product.product_service.dtos;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class ProductStockMapSerializer extends StdSerializer<ProductStockMap> {
+
+    public ProductStockMapSerializer() {
+        super(ProductStockMap.class);
+    }
+
+    @Override
+    public void serialize(ProductStockMap map, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(map, map.size());
+        map.forEach((id, stock) -> {
+            gen.writeFieldId(id);
+            gen.writeNumber(stock);
+        });
+        gen.writeEndObject();
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, ProductStockMap map) {
+        return map == null || map.isEmpty();
+    }
+}
@@ -4,12 +4,12 @@ import com.product.product_service.dtos.ExistentProductsRecord;
 import com.product.product_service.dtos.NewProductRecord;
 import com.product.product_service.dtos.ProductQuantityRecord;
 import com.product.product_service.dtos.ProductRecord;
+import com.product.product_service.dtos.ProductStockMap;
 import com.product.product_service.exceptions.ProductException;
 import com.product.product_service.models.Product;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -37,7 +37,7 @@ public interface ProductService {
 
     Long getIdByName(String name) throws ProductException;
 
-    HashMap<Long, Integer> getAllAvailableProducts(List<ProductQuantityRecord> productQuantityRecordList);
+    ProductStockMap getAllAvailableProducts(List<ProductQuantityRecord> productQuantityRecordList);
 
     ExistentProductsRecord getOneAvailableProduct(ProductQuantityRecord quantityRecord);
 
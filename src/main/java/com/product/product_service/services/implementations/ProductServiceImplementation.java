@@ -14,8 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -157,18 +157,32 @@ public class ProductServiceImplementation implements ProductService {
     }
 
     @Override
-    public HashMap<Long, Integer> getAllAvailableProducts(List<ProductQuantityRecord> productQuantityRecordList) {
+    public ProductStockMap getAllAvailableProducts(List<ProductQuantityRecord> productQuantityRecordList) {
         logger.info("Checking available products for a list of products");
-        HashMap<Long, Integer> availableProductMap = new HashMap<>();
+        List<Long> ids = productQuantityRecordList.stream()
+                .map(ProductQuantityRecord::id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        ProductStockMap availableProductMap = new ProductStockMap(ids.size());
+
+        for (Product product : productRepository.findAllById(ids)) {
+            // A product without stock is reported as 0 available rather than null
+            if (product.getStock() == null) {
+                logger.warn("Product with ID: {} has no stock during availability check, reporting 0", product.getId());
+            }
+            availableProductMap.put(product.getId(), product.getStock() != null ? product.getStock() : 0);
+        }
 
-        productQuantityRecordList.forEach(product -> {
-            try {
-                Product aux = getProductById(product.id());
-                availableProductMap.put(aux.getId(), aux.getStock());
-            } catch (ProductException e) {
-                logger.warn("Product not found for ID: {} during availability check", product.id());
+        if (availableProductMap.size() < ids.size()) {
+            logger.warn("{} of {} requested products not found during availability check",
+                    ids.size() - availableProductMap.size(), ids.size());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Products not found for IDs: {}", ids.stream()
+                        .filter(id -> !availableProductMap.containsKey(id))
+                        .toList());
             }
-        });
+        }
         logger.debug("Available products map: {}", availableProductMap);
         return availableProductMap;
     }
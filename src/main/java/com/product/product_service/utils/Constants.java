@@ -10,4 +10,6 @@ public class Constants {
     public static final String NEGATIVE_STOCK = "Not enough stock";
     public static final String UPDATED_PDT = "The product/s were been updated successfully";
     public static final String PRODUCT_DELETED = "Product deleted!";
+    public static final String RATE_LIMITED = "Too many requests, try again later";
+    public static final String OVERLOADED = "Service overloaded, try again later";
 }
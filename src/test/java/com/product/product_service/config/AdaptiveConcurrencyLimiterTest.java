@@ -0,0 +1,96 @@
+package com.product.product_service.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void rejectsWhenLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 100);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.cancel();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 100);
+
+        long time = 0;
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < limiter.getLimit(); j++) {
+                limiter.tryAcquire();
+            }
+            while (limiter.getInFlight() > 0) {
+                limiter.release(time, time + FAST, false);
+            }
+            time += FAST;
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 20, 100);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(i * FAST, (i + 1) * FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void backsOffOncePerWindowOfSlowResponses() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 50; i++) {
+            limiter.release(0, SLOW + i, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(45);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW + 100, 2 * SLOW + 100, true);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    void clampsToMinAndMax() {
+        assertThat(new AdaptiveConcurrencyLimiter(0, 3, 10, 100).getLimit()).isEqualTo(3);
+        assertThat(new AdaptiveConcurrencyLimiter(50, 3, 10, 100).getLimit()).isEqualTo(10);
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 3, 10, 100);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(i * SLOW, (i + 1) * SLOW, true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 0, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 5, 4, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.product.product_service.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void exhaustsBurstThenReportsWait() {
+        ClientRateLimiter limiter = new ClientRateLimiter(3, 2, 10, clock::get);
+
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void refillsOverTimeUpToCapacity() {
+        ClientRateLimiter limiter = new ClientRateLimiter(2, 2, 10, clock::get);
+        limiter.tryConsume("a");
+        limiter.tryConsume("a");
+        assertThat(limiter.tryConsume("a")).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isPositive();
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isPositive();
+    }
+
+    @Test
+    void keepsSeparateBucketsPerClient() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 10, clock::get);
+
+        assertThat(limiter.tryConsume("a")).isZero();
+        assertThat(limiter.tryConsume("a")).isPositive();
+        assertThat(limiter.tryConsume("b")).isZero();
+    }
+
+    @Test
+    void sharesOverflowBucketWhenFull() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, clock::get);
+        limiter.tryConsume("a");
+        limiter.tryConsume("b");
+
+        assertThat(limiter.tryConsume("c")).isZero();
+        assertThat(limiter.tryConsume("d")).isPositive();
+        assertThat(limiter.getTrackedClients()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOnlyRefilledBuckets() {
+        ClientRateLimiter limiter = new ClientRateLimiter(2, 1, 10, clock::get);
+        limiter.tryConsume("a");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        limiter.tryConsume("b");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        limiter.evictFullBuckets();
+        assertThat(limiter.getTrackedClients()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.evictFullBuckets();
+        assertThat(limiter.getTrackedClients()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new ClientRateLimiter(1, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ClientRateLimiter(0, 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.product.product_service.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private final SecretKey key = Jwts.SIG.HS256.key().build();
+    private final JwtUtils jwtUtils = new JwtUtils(Encoders.BASE64.encode(key.getEncoded()));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoadSheddingFilter filter(int privateMax, int burst) {
+        return new LoadSheddingFilter(jwtUtils, meterRegistry, 1, 10, 250, 10, 250, privateMax, 2000, burst, 1, 100);
+    }
+
+    @Test
+    void skipsPathsOutsideProductRoutes() {
+        LoadSheddingFilter filter = filter(1, 1);
+
+        assertThat(filter.shouldNotFilter(request("/api/products/actuator/health", null))).isTrue();
+        assertThat(filter.shouldNotFilter(request("/api/products/public", null))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/products/admin/1", null))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/products/private/to-order", null))).isFalse();
+        assertThat(filter.shouldNotFilter(request("/api/products/publicity", null))).isTrue();
+    }
+
+    @Test
+    void classifiesEncodedAndMatrixParameterPaths() {
+        assertThat(LoadSheddingFilter.Route.of(request("/api/products/%70rivate/to-order", null)))
+                .isEqualTo(LoadSheddingFilter.Route.PRIVATE);
+        assertThat(LoadSheddingFilter.Route.of(request("/api/products;x=1/private/to-order", null)))
+                .isEqualTo(LoadSheddingFilter.Route.PRIVATE);
+        assertThat(LoadSheddingFilter.Route.of(request("/api/products/private;v=2", null)))
+                .isEqualTo(LoadSheddingFilter.Route.PRIVATE);
+    }
+
+    @Test
+    void rateLimitsEncodedPathsLikePlainOnes() throws Exception {
+        LoadSheddingFilter filter = filter(10, 1);
+        String token = "Bearer " + Jwts.builder().subject("user@mail.com").signWith(key).compact();
+
+        assertThat(run(filter, request("/api/products/private/to-order", token)).getStatus()).isEqualTo(200);
+        assertThat(run(filter, request("/api/products/%70rivate/to-order", token)).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void rateLimitsExpiredTokensBySubject() throws Exception {
+        LoadSheddingFilter filter = filter(10, 1);
+        String expired = "Bearer " + Jwts.builder().subject("user@mail.com")
+                .expiration(new Date(System.currentTimeMillis() - 60_000)).signWith(key).compact();
+
+        assertThat(run(filter, request("/api/products/private", expired)).getStatus()).isEqualTo(200);
+        assertThat(run(filter, request("/api/products/private", expired)).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shedsWith503WhenConcurrencyLimitIsReached() throws Exception {
+        LoadSheddingFilter filter = filter(1, 10);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("/api/products/private", null), outer,
+                (req, res) -> filter.doFilter(request("/api/products/private/to-order", null), nested, new MockFilterChain()));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get("product.shedding.rejected")
+                .tag("route", "private").tag("reason", "concurrency").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitsVerifiedCallerPerRoute() throws Exception {
+        LoadSheddingFilter filter = filter(10, 1);
+        String token = "Bearer " + Jwts.builder().subject("user@mail.com").signWith(key).compact();
+
+        assertThat(run(filter, request("/api/products/private", token)).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse limited = run(filter, request("/api/products/private", token));
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        assertThat(run(filter, request("/api/products/public", token)).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("product.shedding.limit").tag("route", "private").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void doesNotRateLimitAnonymousOrUnverifiedCallers() throws Exception {
+        LoadSheddingFilter filter = filter(10, 1);
+        String forged = "Bearer " + Jwts.builder().subject("user@mail.com")
+                .signWith(Jwts.SIG.HS256.key().build()).compact();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(run(filter, request("/api/products/public", null)).getStatus()).isEqualTo(200);
+            assertThat(run(filter, request("/api/products/public", forged)).getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static MockHttpServletResponse run(LoadSheddingFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", uri);
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,70 @@
+package com.product.product_service.dtos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares bytes allocated to build and serialize a 10k-line availability result with
+ * {@code HashMap<Long, Integer>} against {@link ProductStockMap}.
+ */
+class ProductStockMapAllocationTest {
+
+    private static final int LINES = 10_000;
+    private static final int ROUNDS = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void allocatesLessThanHashMap() throws IOException {
+        for (int i = 0; i < ROUNDS; i++) {
+            buildHashMap();
+            buildStockMap();
+        }
+
+        long hashMapBytes = measure(this::buildHashMap);
+        long stockMapBytes = measure(this::buildStockMap);
+        System.out.printf("Allocated bytes per %d-line result: HashMap=%d, ProductStockMap=%d%n",
+                LINES, hashMapBytes, stockMapBytes);
+
+        assertThat(stockMapBytes).isLessThan(hashMapBytes * 3 / 4);
+    }
+
+    private long measure(IoTask task) throws IOException {
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            task.run();
+        }
+        return (threadBean.getThreadAllocatedBytes(threadId) - before) / ROUNDS;
+    }
+
+    private void buildHashMap() throws IOException {
+        HashMap<Long, Integer> map = new HashMap<>();
+        for (int i = 1; i <= LINES; i++) {
+            map.put((long) i * 7, i % 500 + 200);
+        }
+        objectMapper.writeValue(OutputStream.nullOutputStream(), map);
+    }
+
+    private void buildStockMap() throws IOException {
+        ProductStockMap map = new ProductStockMap(LINES);
+        for (int i = 1; i <= LINES; i++) {
+            map.put((long) i * 7, i % 500 + 200);
+        }
+        objectMapper.writeValue(OutputStream.nullOutputStream(), map);
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws IOException;
+    }
+}
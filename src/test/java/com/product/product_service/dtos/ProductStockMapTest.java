@@ -0,0 +1,87 @@
+package com.product.product_service.dtos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductStockMapTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void putOverwritesExistingId() {
+        ProductStockMap map = new ProductStockMap(2);
+        map.put(1L, 5);
+        map.put(1L, 7);
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(toHashMap(map)).containsExactly(Map.entry(1L, 7));
+    }
+
+    @Test
+    void growsPastExpectedSize() {
+        ProductStockMap map = new ProductStockMap(1);
+        for (long id = 1; id <= 1000; id++) {
+            map.put(id, (int) id * 2);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.containsKey(500L)).isTrue();
+        assertThat(map.containsKey(1001L)).isFalse();
+        HashMap<Long, Integer> entries = toHashMap(map);
+        for (long id = 1; id <= 1000; id++) {
+            assertThat(entries).containsEntry(id, (int) id * 2);
+        }
+    }
+
+    @Test
+    void supportsIdZero() {
+        ProductStockMap map = new ProductStockMap(2);
+        map.put(0L, 3);
+        map.put(0L, 4);
+        map.put(2L, 1);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(toHashMap(map)).containsOnly(Map.entry(0L, 4), Map.entry(2L, 1));
+    }
+
+    @Test
+    void serializesLikeHashMap() throws Exception {
+        ProductStockMap map = new ProductStockMap(3);
+        HashMap<Long, Integer> expected = new HashMap<>();
+        long[] ids = {0L, 1L, 42L, 1_000_000_000_000L, -3L};
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ids[i], i * 10);
+            expected.put(ids[i], i * 10);
+        }
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(map)))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(expected)));
+    }
+
+    @Test
+    void serializesSingleEntryLikeHashMap() throws Exception {
+        ProductStockMap map = new ProductStockMap(1);
+        map.put(1L, 5);
+
+        assertThat(objectMapper.writeValueAsString(map))
+                .isEqualTo(objectMapper.writeValueAsString(new HashMap<>(Map.of(1L, 5))));
+    }
+
+    @Test
+    void serializesEmptyMapLikeHashMap() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new ProductStockMap(0)))
+                .isEqualTo(objectMapper.writeValueAsString(new HashMap<Long, Integer>()));
+    }
+
+    private static HashMap<Long, Integer> toHashMap(ProductStockMap map) {
+        HashMap<Long, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+        return entries;
+    }
+}